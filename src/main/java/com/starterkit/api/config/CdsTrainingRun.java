@@ -0,0 +1,39 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.config;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ends the CDS training run of the production build once the application is ready.
+ * <p>
+ * Unlike {@code spring.context.exit=onRefresh}, this exits after the application
+ * runners, so the classes loaded by the warm-up also end up in the archive.
+ * The flag is read at runtime rather than through a condition, because conditions
+ * are already evaluated when the AOT-processed context is generated.
+ */
+@Slf4j
+@Component
+public class CdsTrainingRun {
+
+    @Value("${app.cds.training-run:false}")
+    private boolean trainingRun;
+
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        if (!trainingRun) {
+            return;
+        }
+        log.info("CDS training run finished, exiting");
+        System.exit(SpringApplication.exit(event.getApplicationContext()));
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.starterkit.api.entity.Category;
+import com.starterkit.api.repository.CategoryRepository;
+import com.starterkit.api.service.ProductService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Exercises the read-only product listing paths before the application reports
+ * itself ready, so the first real requests do not pay for bean creation,
+ * Hibernate query compilation and interpreted bytecode.
+ * <p>
+ * Mapping and JSON serialization can only be warmed when the catalog has rows.
+ * On an empty catalog a single pass is made, which still creates the beans and
+ * compiles and caches the listing queries.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.warm-up", name = "enabled", havingValue = "true")
+public class ProductWarmUpRunner implements ApplicationRunner {
+
+    private final ProductService productService;
+    private final CategoryRepository categoryRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.warm-up.iterations:200}")
+    private int iterations;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        int passes = 0;
+        try {
+            Long categoryId = categoryRepository.findAll(PageRequest.of(0, 1)).stream()
+                    .findFirst()
+                    .map(Category::getId)
+                    .orElse(0L);
+            boolean hasRows = !productService.getAllProducts(0, 1).getContent().isEmpty();
+            int total = hasRows ? iterations : 1;
+            for (; passes < total; passes++) {
+                exerciseListings(categoryId);
+            }
+        } catch (RuntimeException | JsonProcessingException ex) {
+            log.warn("Product listing warm-up aborted: {}", ex.getMessage());
+            return;
+        }
+        log.info("Product listing warm-up completed ({} passes) in {} ms",
+                passes, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void exerciseListings(Long categoryId) throws JsonProcessingException {
+        objectMapper.writeValueAsBytes(productService.getAllProducts(0, 10));
+        objectMapper.writeValueAsBytes(productService.getAllProductsSorted(0, 10, "price", "desc"));
+        objectMapper.writeValueAsBytes(productService.getAllProductsMultiSort(0, 10, List.of("name,asc", "price,desc")));
+        objectMapper.writeValueAsBytes(productService.getProductsByCategory(categoryId, 0, 10));
+        objectMapper.writeValueAsBytes(productService.getTopPricedProducts(5));
+    }
+}
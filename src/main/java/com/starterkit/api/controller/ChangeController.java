@@ -0,0 +1,47 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.controller;
+
+import com.starterkit.api.dto.response.ChangeFeedResponse;
+import com.starterkit.api.service.ChangeFeedService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+@RestController
+@RequestMapping("/api/changes")
+@RequiredArgsConstructor
+@Tag(name = "Changes", description = "Change feed for incremental synchronization of products and categories")
+public class ChangeController {
+
+    private final ChangeFeedService changeFeedService;
+
+    @Operation(
+        summary = "Get changes since a sequence number",
+        description = "Returns product and category changes recorded after 'since', in sequence order. "
+            + "Pass the returned nextSince on the following call. With waitSeconds > 0 the request "
+            + "is held open until a new change arrives or the wait expires (long polling).",
+        parameters = {
+            @Parameter(name = "since", description = "Last sequence number already processed", example = "0"),
+            @Parameter(name = "limit", description = "Maximum number of changes to return", example = "100"),
+            @Parameter(name = "waitSeconds", description = "How long to wait for new changes (max 30)", example = "0")
+        }
+    )
+    @GetMapping(produces = APPLICATION_JSON_VALUE)
+    public DeferredResult<ChangeFeedResponse> getChanges(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(defaultValue = "0") int waitSeconds) {
+        return changeFeedService.pollChanges(since, limit, waitSeconds);
+    }
+}
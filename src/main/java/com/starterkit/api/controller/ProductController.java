@@ -8,8 +8,7 @@ package com.starterkit.api.controller;
 import com.starterkit.api.dto.request.ProductRequest;
 import com.starterkit.api.dto.response.PaginatedResponse;
 import com.starterkit.api.dto.response.ProductResponse;
-import com.starterkit.api.entity.Product;
-import com.starterkit.api.mapper.ProductMapper;
+import com.starterkit.api.service.PageCostTracker;
 import com.starterkit.api.service.ProductService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -36,6 +35,7 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 public class ProductController {
 
     private final ProductService productService;
+    private final PageCostTracker pageCostTracker;
 
     // 0. Create new product
     @Operation(
@@ -118,8 +118,7 @@ public class ProductController {
     )
     @GetMapping(value = "/query-sort", produces = APPLICATION_JSON_VALUE)
     public Page<ProductResponse> getAllProductsQuerySort(@PageableDefault(size = 10) Pageable pageable) {
-        Page<Product> pageResult = productService.getProductsPageable(pageable);
-        return pageResult.map(ProductMapper::toResponse);
+        return productService.getAllProductsQuerySort(pageable);
     }
 
     // 5. Products by category with pagination
@@ -153,4 +152,52 @@ public class ProductController {
             @RequestParam(defaultValue = "5") int limit) {
         return productService.getTopPricedProducts(limit);
     }
+
+    // 7. Adaptive page size within a latency and/or byte budget
+    @Operation(
+        summary = "Get products with an adaptive page size",
+        description = "The server picks the page size that fits the given latency and/or byte budget, based on recent "
+            + "per-row cost measurements, and returns it in pageSize. Pass the returned continuationToken to get the "
+            + "next page. Products are ordered by ID and totals are not computed in this mode. Only this listing and the "
+            + "by-category one support adaptive page sizes; sorted listings keep the fixed page size.",
+        parameters = {
+            @Parameter(name = "maxLatencyMs", description = "Target time to fetch and map the page, in milliseconds", example = "50"),
+            @Parameter(name = "maxBytes", description = "Target size of the serialized page content, in bytes", example = "65536"),
+            @Parameter(name = "continuationToken", description = "Token from the previous response to continue from")
+        }
+    )
+    @GetMapping(value = "/adaptive", produces = APPLICATION_JSON_VALUE)
+    public PaginatedResponse<ProductResponse> getAllProductsAdaptive(
+            @RequestParam(required = false) Integer maxLatencyMs,
+            @RequestParam(required = false) Integer maxBytes,
+            @RequestParam(required = false) String continuationToken) {
+        PaginatedResponse<ProductResponse> response = productService.getAllProductsAdaptive(maxLatencyMs, maxBytes, continuationToken);
+        // Measured here, after the service transaction has released its connection
+        pageCostTracker.recordPayload(response.getContent());
+        return response;
+    }
+
+    // 8. Products by category with an adaptive page size
+    @Operation(
+        summary = "Get products by category with an adaptive page size",
+        description = "Same as the adaptive listing, restricted to the products of one category. Products are ordered "
+            + "by ID and totals are not computed in this mode.",
+        parameters = {
+            @Parameter(name = "categoryId", description = "Category ID", example = "1"),
+            @Parameter(name = "maxLatencyMs", description = "Target time to fetch and map the page, in milliseconds", example = "50"),
+            @Parameter(name = "maxBytes", description = "Target size of the serialized page content, in bytes", example = "65536"),
+            @Parameter(name = "continuationToken", description = "Token from the previous response to continue from")
+        }
+    )
+    @GetMapping(value = "/by-category/{categoryId}/adaptive", produces = APPLICATION_JSON_VALUE)
+    public PaginatedResponse<ProductResponse> getProductsByCategoryAdaptive(
+            @PathVariable Long categoryId,
+            @RequestParam(required = false) Integer maxLatencyMs,
+            @RequestParam(required = false) Integer maxBytes,
+            @RequestParam(required = false) String continuationToken) {
+        PaginatedResponse<ProductResponse> response =
+                productService.getProductsByCategoryAdaptive(categoryId, maxLatencyMs, maxBytes, continuationToken);
+        pageCostTracker.recordPayload(response.getContent());
+        return response;
+    }
 }
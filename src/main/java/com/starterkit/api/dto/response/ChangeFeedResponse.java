@@ -0,0 +1,31 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Schema(description = "Changes recorded after a given sequence number")
+public class ChangeFeedResponse {
+
+    @Schema(description = "Changes in ascending sequence order")
+    private List<ChangeResponse> changes;
+
+    @Schema(description = "Sequence number to pass as 'since' on the next call", example = "42")
+    private long nextSince;
+
+    @Schema(description = "Are more changes available right away?", example = "false")
+    private boolean hasMore;
+}
@@ -0,0 +1,38 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.dto.response;
+
+import com.starterkit.api.entity.ChangeEntityType;
+import com.starterkit.api.entity.ChangeOperation;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Schema(description = "Single entry of the change feed")
+public class ChangeResponse {
+
+    @Schema(description = "Change sequence number", example = "42")
+    Long seq;
+
+    @Schema(description = "Type of the changed entity", example = "PRODUCT")
+    ChangeEntityType entityType;
+
+    @Schema(description = "ID of the changed entity", example = "7")
+    Long entityId;
+
+    @Schema(description = "Kind of change", example = "CREATED")
+    ChangeOperation operation;
+
+    @Schema(description = "When the change was recorded", example = "2025-01-01T10:15:30Z")
+    Instant changedAt;
+}
@@ -5,6 +5,7 @@
  */
 package com.starterkit.api.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -17,27 +18,31 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @Schema(description = "Generic paginated response wrapper")
 public class PaginatedResponse<T> {
 
     @Schema(description = "List of items in the current page")
     private List<T> content;
 
-    @Schema(description = "Current page number (zero-based)", example = "0")
-    private int currentPage;
+    @Schema(description = "Current page number (zero-based); absent in adaptive mode", example = "0")
+    private Integer currentPage;
 
-    @Schema(description = "Number of items per page", example = "10")
+    @Schema(description = "Number of items per page; in adaptive mode the size chosen for the budget", example = "10")
     private int pageSize;
 
-    @Schema(description = "Total number of elements", example = "150")
-    private long totalElements;
+    @Schema(description = "Total number of elements; absent in adaptive mode", example = "150")
+    private Long totalElements;
 
-    @Schema(description = "Total number of pages", example = "15")
-    private int totalPages;
+    @Schema(description = "Total number of pages; absent in adaptive mode", example = "15")
+    private Integer totalPages;
 
     @Schema(description = "Is this the first page?", example = "true")
     private boolean first;
 
     @Schema(description = "Is this the last page?", example = "false")
     private boolean last;
+
+    @Schema(description = "Token to fetch the next page in adaptive mode; absent on the last page", example = "MTA")
+    private String continuationToken;
 }
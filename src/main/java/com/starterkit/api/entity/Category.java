@@ -8,11 +8,13 @@ package com.starterkit.api.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.TenantId;
 
 import java.util.List;
 
 @Entity
-@Table(name = "categories")
+@Table(name = "categories", uniqueConstraints =
+    @UniqueConstraint(name = "uk_categories_tenant_name", columnNames = {"tenant_id", "name"}))
 @Data
 @Builder
 @NoArgsConstructor
@@ -24,9 +26,16 @@ public class Category {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     Long id;
 
-    @Column(nullable = false, unique = true)
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false, length = 64)
+    String tenantId;
+
+    @Column(nullable = false)
     String name;
 
+    // Excluded from the Lombok methods so logging or comparing a category never loads its products
     @OneToMany(mappedBy = "category", cascade = CascadeType.ALL, orphanRemoval = true)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     List<Product> products;
 }
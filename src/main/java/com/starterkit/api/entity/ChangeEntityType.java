@@ -0,0 +1,11 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.entity;
+
+public enum ChangeEntityType {
+    PRODUCT,
+    CATEGORY
+}
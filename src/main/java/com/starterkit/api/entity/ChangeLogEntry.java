@@ -0,0 +1,57 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.TenantId;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "change_log", indexes = @Index(name = "idx_change_log_tenant_seq", columnList = "tenant_id, seq"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ChangeLogEntry implements Persistable<Long> {
+
+    // Monotonically increasing change sequence allocated from ChangeSequence, used as the feed cursor
+    @Id
+    Long seq;
+
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false, length = 64)
+    String tenantId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    ChangeEntityType entityType;
+
+    @Column(nullable = false)
+    Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    ChangeOperation operation;
+
+    @Column(nullable = false)
+    Instant changedAt;
+
+    @Override
+    public Long getId() {
+        return seq;
+    }
+
+    // Entries are append-only, so saving always inserts instead of merging
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
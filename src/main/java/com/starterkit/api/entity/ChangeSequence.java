@@ -0,0 +1,32 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Single-row counter the change log sequence is allocated from. Writers lock the row
+ * until they commit, so changes become visible in the same order as their sequence numbers.
+ */
+@Entity
+@Table(name = "change_sequence")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ChangeSequence {
+
+    public static final long SINGLETON_ID = 1L;
+
+    @Id
+    Long id;
+
+    @Column(nullable = false)
+    Long lastSeq;
+}
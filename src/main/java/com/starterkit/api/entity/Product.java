@@ -8,9 +8,15 @@ package com.starterkit.api.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.TenantId;
 
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = {
+    @Index(name = "idx_products_tenant_id", columnList = "tenant_id, id"),
+    @Index(name = "idx_products_tenant_category", columnList = "tenant_id, category_id"),
+    @Index(name = "idx_products_tenant_name", columnList = "tenant_id, name"),
+    @Index(name = "idx_products_tenant_price", columnList = "tenant_id, price")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -22,6 +28,11 @@ public class Product {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     Long id;
 
+    // Storefront the row belongs to; set and filtered automatically by Hibernate
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false, length = 64)
+    String tenantId;
+
     @Column(nullable = false)
     String name;
 
@@ -30,5 +41,7 @@ public class Product {
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     Category category;
 }
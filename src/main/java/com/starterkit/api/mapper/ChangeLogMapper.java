@@ -0,0 +1,33 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.mapper;
+
+import com.starterkit.api.dto.response.ChangeResponse;
+import com.starterkit.api.entity.ChangeLogEntry;
+
+import java.util.List;
+
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class ChangeLogMapper {
+
+    public ChangeResponse toResponse(ChangeLogEntry entry) {
+        return ChangeResponse.builder()
+                .seq(entry.getSeq())
+                .entityType(entry.getEntityType())
+                .entityId(entry.getEntityId())
+                .operation(entry.getOperation())
+                .changedAt(entry.getChangedAt())
+                .build();
+    }
+
+    public List<ChangeResponse> toResponseList(List<ChangeLogEntry> entries) {
+        return entries.stream()
+                .map(ChangeLogMapper::toResponse)
+                .toList();
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.repository;
+
+import com.starterkit.api.entity.ChangeSequence;
+
+import jakarta.persistence.LockModeType;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface ChangeSequenceRepository extends JpaRepository<ChangeSequence, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<ChangeSequence> findLockedById(Long id);
+
+    /**
+     * Creates the counter row unless it exists, continuing after the highest
+     * sequence already in the change log of any tenant.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO change_sequence (id, last_seq)
+            SELECT :id, COALESCE((SELECT MAX(seq) FROM change_log), 0)
+            WHERE NOT EXISTS (SELECT 1 FROM change_sequence WHERE id = :id)
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("id") Long id);
+}
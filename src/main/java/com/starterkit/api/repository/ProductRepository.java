@@ -8,11 +8,33 @@ package com.starterkit.api.repository;
 
 import com.starterkit.api.entity.Product;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import jakarta.persistence.QueryHint;
+
+import java.util.List;
+
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
+    @Override
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    Page<Product> findAll(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    List<Product> findAllBy(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    List<Product> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
     Page<Product> findByCategoryId(Long categoryId, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    List<Product> findByCategoryIdAndIdGreaterThanOrderByIdAsc(Long categoryId, Long id, Limit limit);
 }
\ No newline at end of file
@@ -16,6 +16,8 @@ import org.springframework.web.server.ResponseStatusException;
 import com.starterkit.api.dto.request.CategoryRequest;
 import com.starterkit.api.dto.response.CategoryResponse;
 import com.starterkit.api.entity.Category;
+import com.starterkit.api.entity.ChangeEntityType;
+import com.starterkit.api.entity.ChangeOperation;
 import com.starterkit.api.mapper.CategoryMapper;
 import com.starterkit.api.repository.CategoryRepository;
 
@@ -26,6 +28,7 @@ import lombok.RequiredArgsConstructor;
 public class CategoryService {
     
     private final CategoryRepository categoryRepository;
+    private final ChangeFeedService changeFeedService;
 
     @Transactional
     public CategoryResponse createCategory(CategoryRequest request) {
@@ -34,10 +37,12 @@ public class CategoryService {
         }
 
         Category category = categoryRepository.save(Category.builder().name(request.getName()).build());
-        
+        changeFeedService.recordChange(ChangeEntityType.CATEGORY, category.getId(), ChangeOperation.CREATED);
+
         return CategoryMapper.toResponse(category);
     }
 
+    @Transactional(readOnly = true)
     public List<CategoryResponse> getAllCategories() {
         return categoryRepository.findAll()
                 .stream()
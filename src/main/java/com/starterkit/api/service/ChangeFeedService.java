@@ -0,0 +1,227 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.service;
+
+import com.starterkit.api.dto.response.ChangeFeedResponse;
+import com.starterkit.api.entity.ChangeEntityType;
+import com.starterkit.api.entity.ChangeLogEntry;
+import com.starterkit.api.entity.ChangeOperation;
+import com.starterkit.api.entity.ChangeSequence;
+import com.starterkit.api.mapper.ChangeLogMapper;
+import com.starterkit.api.repository.ChangeLogRepository;
+import com.starterkit.api.repository.ChangeSequenceRepository;
+import com.starterkit.api.tenant.TenantContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChangeFeedService {
+
+    private final ChangeLogRepository changeLogRepository;
+    private final ChangeSequenceRepository changeSequenceRepository;
+    private final TaskExecutor taskExecutor;
+    private final PlatformTransactionManager transactionManager;
+
+    // Long-poll requests waiting for a change past their 'since' cursor
+    private final Set<PendingPoll> pendingPolls = ConcurrentHashMap.newKeySet();
+
+    private static final int MAX_LIMIT = 500;
+    private static final int MAX_WAIT_SECONDS = 30;
+
+    /**
+     * Appends an entry to the change log within the caller's transaction.
+     * The sequence counter stays locked until that transaction ends, so a later
+     * sequence number can never become visible before an earlier one.
+     * Waiting long-poll requests are woken up on another thread once the transaction
+     * commits, so the write neither waits for nor fails because of them.
+     */
+    @Transactional
+    public void recordChange(ChangeEntityType entityType, Long entityId, ChangeOperation operation) {
+        ChangeSequence sequence = lockSequence();
+        long seq = sequence.getLastSeq() + 1;
+        sequence.setLastSeq(seq);
+
+        changeLogRepository.save(ChangeLogEntry.builder()
+                .seq(seq)
+                .entityType(entityType)
+                .entityId(entityId)
+                .operation(operation)
+                .changedAt(Instant.now())
+                .build());
+
+        // A single wake-up per transaction, however many changes it records
+        boolean wakeUpRegistered = TransactionSynchronizationManager.getSynchronizations().stream()
+                .anyMatch(WakeUpOnCommit.class::isInstance);
+        if (!wakeUpRegistered) {
+            TransactionSynchronizationManager.registerSynchronization(new WakeUpOnCommit(TenantContext.getTenantId()));
+        }
+    }
+
+    private ChangeSequence lockSequence() {
+        return changeSequenceRepository.findLockedById(ChangeSequence.SINGLETON_ID).orElseGet(() -> {
+            createSequence();
+            return changeSequenceRepository.findLockedById(ChangeSequence.SINGLETON_ID)
+                    .orElseThrow(() -> new IllegalStateException("Change sequence row is missing"));
+        });
+    }
+
+    private void createSequence() {
+        // Committed on its own, so every writer finds the row once this returns
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            transaction.executeWithoutResult(status -> changeSequenceRepository.insertIfAbsent(ChangeSequence.SINGLETON_ID));
+        } catch (DataIntegrityViolationException ex) {
+            // A concurrent first writer created the row
+            log.debug("Change sequence row created concurrently: {}", ex.getMessage());
+        }
+    }
+
+    public ChangeFeedResponse getChanges(long since, int limit) {
+        limit = validateLimit(limit);
+        // Fetch one extra entry to know whether another page is already available
+        List<ChangeLogEntry> entries = changeLogRepository.findBySeqGreaterThanOrderBySeqAsc(since, PageRequest.of(0, limit + 1));
+        return buildResponse(entries, since, limit, false);
+    }
+
+    /**
+     * Returns changes after {@code since}; when there are none yet, holds the request open
+     * for up to {@code waitSeconds} and answers as soon as a new change is committed.
+     */
+    public DeferredResult<ChangeFeedResponse> pollChanges(long since, int limit, int waitSeconds) {
+        int effectiveLimit = validateLimit(limit);
+        int effectiveWait = Math.max(0, Math.min(waitSeconds, MAX_WAIT_SECONDS));
+
+        ChangeFeedResponse response = getChanges(since, effectiveLimit);
+        if (!response.getChanges().isEmpty() || effectiveWait == 0) {
+            DeferredResult<ChangeFeedResponse> result = new DeferredResult<>();
+            result.setResult(response);
+            return result;
+        }
+
+        DeferredResult<ChangeFeedResponse> result = new DeferredResult<>(effectiveWait * 1000L, response);
+        PendingPoll poll = new PendingPoll(TenantContext.getTenantId(), since, effectiveLimit, result);
+        result.onCompletion(() -> pendingPolls.remove(poll));
+        pendingPolls.add(poll);
+
+        // Re-check so a change committed while registering is not missed
+        completeIfChanged(poll);
+        return result;
+    }
+
+    private void scheduleWakeUp(String tenantId) {
+        List<PendingPoll> polls = pendingPolls.stream()
+                .filter(poll -> poll.tenantId().equals(tenantId))
+                .toList();
+        if (polls.isEmpty()) {
+            return;
+        }
+        try {
+            taskExecutor.execute(() -> wakeUp(tenantId, polls));
+        } catch (TaskRejectedException ex) {
+            // The parked polls still answer when they time out
+            log.warn("Could not schedule the change feed wake-up: {}", ex.getMessage());
+        }
+    }
+
+    private void wakeUp(String tenantId, List<PendingPoll> polls) {
+        // The query must run in the writer's tenant, which this thread does not carry
+        TenantContext.setTenantId(tenantId);
+        try {
+            notifyPendingPolls(polls);
+        } catch (RuntimeException ex) {
+            log.warn("Change feed wake-up failed: {}", ex.getMessage(), ex);
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    private void notifyPendingPolls(List<PendingPoll> polls) {
+        // A single query from the oldest cursor serves every waiting poll
+        long oldestSince = polls.stream().mapToLong(PendingPoll::since).min().getAsLong();
+        List<ChangeLogEntry> entries = changeLogRepository.findBySeqGreaterThanOrderBySeqAsc(oldestSince, PageRequest.of(0, MAX_LIMIT + 1));
+        boolean truncated = entries.size() > MAX_LIMIT;
+
+        for (PendingPoll poll : polls) {
+            List<ChangeLogEntry> newer = entries.stream()
+                    .filter(entry -> entry.getSeq() > poll.since())
+                    .limit(poll.limit() + 1L)
+                    .toList();
+            if (!newer.isEmpty()) {
+                poll.result().setResult(buildResponse(newer, poll.since(), poll.limit(), truncated));
+            } else if (truncated) {
+                // This poll's changes lie beyond the shared batch
+                completeIfChanged(poll);
+            }
+        }
+    }
+
+    private void completeIfChanged(PendingPoll poll) {
+        ChangeFeedResponse response = getChanges(poll.since(), poll.limit());
+        if (!response.getChanges().isEmpty()) {
+            poll.result().setResult(response);
+        }
+    }
+
+    /**
+     * Builds the response from up to {@code limit + 1} entries after {@code since};
+     * {@code moreBeyond} signals that further entries may exist past the given ones.
+     */
+    private ChangeFeedResponse buildResponse(List<ChangeLogEntry> entries, long since, int limit, boolean moreBeyond) {
+        boolean hasMore = entries.size() > limit || moreBeyond;
+        if (entries.size() > limit) {
+            entries = entries.subList(0, limit);
+        }
+        long nextSince = entries.isEmpty() ? since : entries.get(entries.size() - 1).getSeq();
+
+        return ChangeFeedResponse.builder()
+                .changes(ChangeLogMapper.toResponseList(entries))
+                .nextSince(nextSince)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    private int validateLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    private final class WakeUpOnCommit implements TransactionSynchronization {
+
+        private final String tenantId;
+
+        private WakeUpOnCommit(String tenantId) {
+            this.tenantId = tenantId;
+        }
+
+        @Override
+        public void afterCommit() {
+            scheduleWakeUp(tenantId);
+        }
+    }
+
+    private record PendingPoll(String tenantId, long since, int limit, DeferredResult<ChangeFeedResponse> result) {
+    }
+}
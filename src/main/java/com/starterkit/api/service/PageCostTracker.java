@@ -0,0 +1,112 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Keeps moving averages of what a product page costs (query plus mapping time, and
+ * serialized bytes per row) and turns a client's latency or byte budget into a page size.
+ * Page time is modelled as a fixed per-query overhead plus a per-row cost; both grow
+ * under load, so pages shrink automatically when the server is busy.
+ */
+@Component
+@RequiredArgsConstructor
+public class PageCostTracker {
+
+    private static final double SMOOTHING = 0.2;
+    private static final int INITIAL_PAGE_SIZE = 10;
+    private static final int MAX_ADAPTIVE_PAGE_SIZE = 500;
+    // Serializing a page only to measure it doubles the work, so only every Nth page is measured
+    private static final int PAYLOAD_SAMPLE_RATE = 8;
+
+    private final ObjectMapper objectMapper;
+
+    // Smoothed moments of (rows, nanos) per page, for a least-squares fit of nanos = fixed + perRow * rows
+    private double meanRows = Double.NaN;
+    private double meanNanos = Double.NaN;
+    private double meanRowsSquared = Double.NaN;
+    private double meanRowsTimesNanos = Double.NaN;
+    private double bytesPerRow = Double.NaN;
+    private long pagesSeen;
+
+    public synchronized int choosePageSize(Integer maxLatencyMs, Integer maxBytes) {
+        int size = MAX_ADAPTIVE_PAGE_SIZE;
+        if (maxLatencyMs != null) {
+            size = Math.min(size, rowsWithinLatency(maxLatencyMs * 1_000_000.0));
+        }
+        if (maxBytes != null) {
+            // Until a page has been measured, a single row is the only size that can respect the budget
+            size = Math.min(size, Double.isNaN(bytesPerRow) ? 1 : rowsWithin(maxBytes, bytesPerRow));
+        }
+        return size;
+    }
+
+    /**
+     * Records how long a page of {@code rows} rows took to query and map.
+     */
+    public synchronized void recordPage(int rows, long elapsedNanos) {
+        if (rows == 0) {
+            return;
+        }
+        meanRows = smooth(meanRows, rows);
+        meanNanos = smooth(meanNanos, elapsedNanos);
+        meanRowsSquared = smooth(meanRowsSquared, (double) rows * rows);
+        meanRowsTimesNanos = smooth(meanRowsTimesNanos, (double) rows * elapsedNanos);
+    }
+
+    /**
+     * Samples the serialized size of a page. Call it outside any transaction: the page
+     * is serialized once more here, and the database connection should not wait for that.
+     */
+    public void recordPayload(List<?> content) {
+        if (content.isEmpty()) {
+            return;
+        }
+        synchronized (this) {
+            if (pagesSeen++ % PAYLOAD_SAMPLE_RATE != 0 && !Double.isNaN(bytesPerRow)) {
+                return;
+            }
+        }
+        try {
+            int bytes = objectMapper.writeValueAsBytes(content).length;
+            synchronized (this) {
+                bytesPerRow = smooth(bytesPerRow, (double) bytes / content.size());
+            }
+        } catch (JsonProcessingException ex) {
+            // Keep the previous estimate; the page itself is serialized by Spring MVC
+        }
+    }
+
+    private int rowsWithinLatency(double budgetNanos) {
+        if (Double.isNaN(meanRows)) {
+            return INITIAL_PAGE_SIZE;
+        }
+        double variance = meanRowsSquared - meanRows * meanRows;
+        double perRow = variance > 1.0 ? (meanRowsTimesNanos - meanRows * meanNanos) / variance : 0;
+        double fixed = meanNanos - perRow * meanRows;
+        if (perRow <= 0 || fixed < 0) {
+            // Page sizes have not varied enough for a fit yet: charge the whole page time to its rows
+            perRow = meanNanos / meanRows;
+            fixed = 0;
+        }
+        return rowsWithin(budgetNanos - fixed, perRow);
+    }
+
+    private static double smooth(double average, double sample) {
+        return Double.isNaN(average) ? sample : average + SMOOTHING * (sample - average);
+    }
+
+    private static int rowsWithin(double budget, double costPerRow) {
+        return (int) Math.max(1, Math.min(MAX_ADAPTIVE_PAGE_SIZE, budget / costPerRow));
+    }
+}
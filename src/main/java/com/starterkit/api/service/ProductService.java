@@ -9,12 +9,15 @@ import com.starterkit.api.dto.request.ProductRequest;
 import com.starterkit.api.dto.response.PaginatedResponse;
 import com.starterkit.api.dto.response.ProductResponse;
 import com.starterkit.api.entity.Category;
+import com.starterkit.api.entity.ChangeEntityType;
+import com.starterkit.api.entity.ChangeOperation;
 import com.starterkit.api.entity.Product;
 import com.starterkit.api.mapper.ProductMapper;
 import com.starterkit.api.repository.CategoryRepository;
 import com.starterkit.api.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.PageRequest;
@@ -24,7 +27,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
+import java.util.function.BiFunction;
 
 @Service
 @RequiredArgsConstructor
@@ -32,6 +38,8 @@ public class ProductService {
 
     private final CategoryRepository categoryRepository;
     private final ProductRepository productRepository;
+    private final ChangeFeedService changeFeedService;
+    private final PageCostTracker pageCostTracker;
 
     private static final int MAX_PAGE_SIZE = 50;
 
@@ -43,10 +51,12 @@ public class ProductService {
 
         Product product = ProductMapper.toEntity(request, category);
         Product saved = productRepository.save(product);
+        changeFeedService.recordChange(ChangeEntityType.PRODUCT, saved.getId(), ChangeOperation.CREATED);
 
         return ProductMapper.toResponse(saved);
     }
 
+    @Transactional(readOnly = true)
     public PaginatedResponse<ProductResponse> getAllProducts(int page, int size) {
         size = validatePageSize(size);
         Pageable pageable = PageRequest.of(page, size);
@@ -55,6 +65,7 @@ public class ProductService {
         return buildPaginatedResponse(productPage);
     }
 
+    @Transactional(readOnly = true)
     public PaginatedResponse<ProductResponse> getAllProductsSorted(int page, int size, String sortField, String direction) {
         size = validatePageSize(size);
         Sort sort = direction.equalsIgnoreCase("desc") 
@@ -66,6 +77,7 @@ public class ProductService {
         return buildPaginatedResponse(productPage);
     }
 
+    @Transactional(readOnly = true)
     public PaginatedResponse<ProductResponse> getAllProductsMultiSort(int page, int size, List<String> sortParams) {
         size = validatePageSize(size);
 
@@ -84,6 +96,7 @@ public class ProductService {
         return buildPaginatedResponse(productPage);
     }
 
+    @Transactional(readOnly = true)
     public PaginatedResponse<ProductResponse> getProductsByCategory(Long categoryId, int page, int size) {
         size = validatePageSize(size);
         Pageable pageable = PageRequest.of(page, size);
@@ -92,12 +105,61 @@ public class ProductService {
         return buildPaginatedResponse(productPage);
     }
 
+    @Transactional(readOnly = true)
     public List<ProductResponse> getTopPricedProducts(int limit) {
         Pageable pageable = PageRequest.of(0, limit, Sort.by("price").descending());
-        Page<Product> productPage = getProductsPageable(pageable);
-        return ProductMapper.toResponseList(productPage.getContent());
+        // Top N needs no total count, so skip the count query a Page would trigger
+        List<Product> products = productRepository.findAllBy(pageable);
+        return ProductMapper.toResponseList(products);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ProductResponse> getAllProductsQuerySort(Pageable pageable) {
+        return getProductsPageable(pageable).map(ProductMapper::toResponse);
+    }
+
+    @Transactional(readOnly = true)
+    public PaginatedResponse<ProductResponse> getAllProductsAdaptive(Integer maxLatencyMs, Integer maxBytes, String continuationToken) {
+        return getAdaptivePage(maxLatencyMs, maxBytes, continuationToken, productRepository::findByIdGreaterThanOrderByIdAsc);
     }
 
+    @Transactional(readOnly = true)
+    public PaginatedResponse<ProductResponse> getProductsByCategoryAdaptive(Long categoryId, Integer maxLatencyMs, Integer maxBytes,
+                                                                            String continuationToken) {
+        // Keyset on (category_id, id), served by the tenant/category index
+        return getAdaptivePage(maxLatencyMs, maxBytes, continuationToken,
+                (afterId, limit) -> productRepository.findByCategoryIdAndIdGreaterThanOrderByIdAsc(categoryId, afterId, limit));
+    }
+
+    private PaginatedResponse<ProductResponse> getAdaptivePage(Integer maxLatencyMs, Integer maxBytes, String continuationToken,
+                                                               BiFunction<Long, Limit, List<Product>> query) {
+        if (maxLatencyMs == null && maxBytes == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Provide maxLatencyMs and/or maxBytes");
+        }
+        if ((maxLatencyMs != null && maxLatencyMs <= 0) || (maxBytes != null && maxBytes <= 0)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Budgets must be positive");
+        }
+        long afterId = decodeContinuationToken(continuationToken);
+        int size = pageCostTracker.choosePageSize(maxLatencyMs, maxBytes);
+
+        long start = System.nanoTime();
+        // Keyset pagination on id: one extra row tells whether the client has to continue
+        List<Product> products = query.apply(afterId, Limit.of(size + 1));
+        boolean last = products.size() <= size;
+        if (!last) {
+            products = products.subList(0, size);
+        }
+        List<ProductResponse> content = ProductMapper.toResponseList(products);
+        pageCostTracker.recordPage(content.size(), System.nanoTime() - start);
+
+        return PaginatedResponse.<ProductResponse>builder()
+                .content(content)
+                .pageSize(size)
+                .first(continuationToken == null)
+                .last(last)
+                .continuationToken(last ? null : encodeContinuationToken(products.get(size - 1).getId()))
+                .build();
+    }
 
     public Page<Product> getProductsPageable(Pageable pageable) {
         return productRepository.findAll(pageable);
@@ -107,10 +169,27 @@ public class ProductService {
         return Math.min(size, MAX_PAGE_SIZE);
     }
 
+    private String encodeContinuationToken(Long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.valueOf(lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private long decodeContinuationToken(String token) {
+        if (token == null) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid continuation token");
+        }
+    }
+
     private PaginatedResponse<ProductResponse> buildPaginatedResponse(Page<Product> page) {
         return PaginatedResponse.<ProductResponse>builder()
                 .content(ProductMapper.toResponseList(page.getContent()))
                 .currentPage(page.getNumber())
+                .pageSize(page.getSize())
                 .totalPages(page.getTotalPages())
                 .totalElements(page.getTotalElements())
                 .first(page.isFirst())
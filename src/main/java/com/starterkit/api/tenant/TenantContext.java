@@ -0,0 +1,33 @@
+/*
+ * Spring Boot API Starter Kit
+ * Copyright (c) 2025 Gianfranco Coppola. All rights reserved.
+ * Commercial use permitted. Redistribution prohibited.
+ */
+package com.starterkit.api.tenant;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Holds the storefront (tenant) the current thread is working for.
+ * Falls back to {@link #DEFAULT_TENANT} outside of a tenant-scoped request.
+ */
+@UtilityClass
+public class TenantContext {
+
+    public static final String DEFAULT_TENANT = "default";
+
+    private static final ThreadLocal<String> CURRENT_TENANT = new ThreadLocal<>();
+
+    public String getTenantId() {
+        String tenantId = CURRENT_TENANT.get();
+        return tenantId != null ? tenantId : DEFAULT_TENANT;
+    }
+
+    public void setTenantId(String tenantId) {
+        CURRENT_TENANT.set(tenantId);
+    }
+
+    public void clear() {
+        CURRENT_TENANT.remove();
+    }
+}
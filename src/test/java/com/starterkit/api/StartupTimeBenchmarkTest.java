@@ -0,0 +1,102 @@
+package com.starterkit.api;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Measures time-to-first-successful-page for a packaged application jar: the time
+ * from launching a fresh JVM until GET /api/products answers 200.
+ *
+ * Skipped unless a jar is given, e.g. after "mvn -Pprod package":
+ * mvn test -Dtest=StartupTimeBenchmarkTest
+ *     -Dstartup.benchmark.jar=target/application/springboot-pagination-sorting-demo-0.0.1-SNAPSHOT.jar
+ *     "-Dstartup.benchmark.jvmArgs=-XX:SharedArchiveFile=app.jsa -Dspring.aot.enabled=true -Dspring.profiles.active=prod"
+ */
+@EnabledIfSystemProperty(named = "startup.benchmark.jar", matches = ".+")
+class StartupTimeBenchmarkTest {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(120);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(200))
+            .build();
+
+    @Test
+    void timeToFirstSuccessfulPage() throws Exception {
+        File jar = new File(System.getProperty("startup.benchmark.jar")).getAbsoluteFile();
+        String jvmArgs = System.getProperty("startup.benchmark.jvmArgs", "").trim();
+        int runs = Integer.getInteger("startup.benchmark.runs", 5);
+
+        List<Long> timings = new ArrayList<>();
+        for (int run = 0; run < runs; run++) {
+            timings.add(measureRun(jar, jvmArgs));
+        }
+
+        Collections.sort(timings);
+        System.out.printf("Time to first successful page over %d runs [%s]: min=%d ms, median=%d ms, max=%d ms%n",
+                runs, jvmArgs, timings.get(0), timings.get(runs / 2), timings.get(runs - 1));
+    }
+
+    private long measureRun(File jar, String jvmArgs) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        if (!jvmArgs.isEmpty()) {
+            command.addAll(Arrays.asList(jvmArgs.split("\\s+")));
+        }
+        command.addAll(List.of("-jar", jar.getPath(), "--server.port=" + port));
+
+        HttpRequest firstPage = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/products?page=0&size=10"))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(jar.getParentFile())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            long deadline = start + STARTUP_TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline && process.isAlive()) {
+                try {
+                    HttpResponse<Void> response = httpClient.send(firstPage, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() == 200) {
+                        return (System.nanoTime() - start) / 1_000_000;
+                    }
+                } catch (IOException ex) {
+                    // Not listening yet
+                }
+                Thread.sleep(10);
+            }
+            // Supplier is only evaluated on failure, i.e. once the process has exited
+            assertTrue(process.isAlive(), () -> "Application exited with code " + process.exitValue());
+            return fail("No successful page within " + STARTUP_TIMEOUT);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
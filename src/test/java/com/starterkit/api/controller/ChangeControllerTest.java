@@ -0,0 +1,215 @@
+package com.starterkit.api.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.starterkit.api.entity.ChangeEntityType;
+import com.starterkit.api.entity.ChangeOperation;
+import com.starterkit.api.service.ChangeFeedService;
+import com.starterkit.api.tenant.TenantContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.starterkit.api.tenant.TenantFilter.TENANT_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ChangeControllerTest {
+
+    // Each test gets its own tenant, so its change feed starts empty
+    private static final AtomicInteger TENANTS = new AtomicInteger();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private String tenant;
+
+    @BeforeEach
+    void useFreshTenant() {
+        tenant = "changes-" + TENANTS.incrementAndGet();
+    }
+
+    @Test
+    void pagesThroughChangesWithCursor() throws Exception {
+        long books = createCategory("Books");
+        long games = createCategory("Games");
+        long music = createCategory("Music");
+
+        String firstPage = dispatch(pollChanges(0, 2, 0))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes[*].entityId").value(contains((int) books, (int) games)))
+                .andExpect(jsonPath("$.changes[0].entityType").value("CATEGORY"))
+                .andExpect(jsonPath("$.changes[0].operation").value("CREATED"))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andReturn().getResponse().getContentAsString();
+        long nextSince = ((Number) JsonPath.read(firstPage, "$.nextSince")).longValue();
+        assertThat(nextSince).isEqualTo(((Number) JsonPath.read(firstPage, "$.changes[1].seq")).longValue());
+
+        String secondPage = dispatch(pollChanges(nextSince, 2, 0))
+                .andExpect(jsonPath("$.changes", hasSize(1)))
+                .andExpect(jsonPath("$.changes[0].entityId").value(music))
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andReturn().getResponse().getContentAsString();
+        long lastSince = ((Number) JsonPath.read(secondPage, "$.nextSince")).longValue();
+
+        // Nothing new: the cursor stays where it is
+        dispatch(pollChanges(lastSince, 2, 0))
+                .andExpect(jsonPath("$.changes", hasSize(0)))
+                .andExpect(jsonPath("$.nextSince").value(lastSince))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    void clampsLimitToAllowedRange() throws Exception {
+        recordChanges(501);
+
+        dispatch(pollChanges(0, 0, 0))
+                .andExpect(jsonPath("$.changes", hasSize(1)))
+                .andExpect(jsonPath("$.hasMore").value(true));
+        dispatch(pollChanges(0, 10_000, 0))
+                .andExpect(jsonPath("$.changes", hasSize(500)))
+                .andExpect(jsonPath("$.hasMore").value(true));
+    }
+
+    @Test
+    void answersImmediatelyWhenChangesExist() throws Exception {
+        long books = createCategory("Books");
+
+        MvcResult result = pollChanges(0, 10, 30);
+
+        // Result is already set, the request was not parked
+        assertThat(result.getAsyncResult(0)).isNotNull();
+        dispatch(result)
+                .andExpect(jsonPath("$.changes", hasSize(1)))
+                .andExpect(jsonPath("$.changes[0].entityId").value(books));
+    }
+
+    @Test
+    void parkedPollsCompleteAfterLaterCreate() throws Exception {
+        MvcResult all = pollChanges(0, 10, 30);
+        MvcResult single = pollChanges(0, 1, 30);
+        assertThatThrownBy(() -> all.getAsyncResult(0)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> single.getAsyncResult(0)).isInstanceOf(IllegalStateException.class);
+
+        long books = createCategory("Books");
+
+        dispatch(all)
+                .andExpect(jsonPath("$.changes", hasSize(1)))
+                .andExpect(jsonPath("$.changes[0].entityId").value(books))
+                .andExpect(jsonPath("$.hasMore").value(false));
+        dispatch(single)
+                .andExpect(jsonPath("$.changes", hasSize(1)))
+                .andExpect(jsonPath("$.changes[0].entityId").value(books));
+    }
+
+    @Test
+    void parkedPollSeesEveryChangeOfTheWakingTransaction() throws Exception {
+        MvcResult result = pollChanges(0, 10, 30);
+
+        recordChanges(3);
+
+        dispatch(result)
+                .andExpect(jsonPath("$.changes[*].entityId").value(contains(1, 2, 3)))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    void parkedPollIsNotWokenByAnotherTenant() throws Exception {
+        MvcResult result = pollChanges(0, 10, 30);
+        String ownTenant = tenant;
+
+        tenant = ownTenant + "-other";
+        createCategory("Books");
+
+        assertThatThrownBy(() -> result.getAsyncResult(0)).isInstanceOf(IllegalStateException.class);
+        tenant = ownTenant;
+        expireWait(result);
+        dispatch(result).andExpect(jsonPath("$.changes", hasSize(0)));
+    }
+
+    @Test
+    void parkedPollTimesOutWithEmptyResponse() throws Exception {
+        MvcResult result = pollChanges(0, 10, 1);
+
+        expireWait(result);
+
+        dispatch(result)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes", hasSize(0)))
+                .andExpect(jsonPath("$.nextSince").value(0))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    private MvcResult pollChanges(long since, int limit, int waitSeconds) throws Exception {
+        return mockMvc.perform(get("/api/changes").header(TENANT_HEADER, tenant)
+                        .param("since", String.valueOf(since))
+                        .param("limit", String.valueOf(limit))
+                        .param("waitSeconds", String.valueOf(waitSeconds)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private ResultActions dispatch(MvcResult result) throws Exception {
+        return mockMvc.perform(asyncDispatch(result));
+    }
+
+    // MockMvc never expires async requests on its own, so fire the container timeout by hand
+    private void expireWait(MvcResult result) throws Exception {
+        MockAsyncContext asyncContext = (MockAsyncContext) result.getRequest().getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+    }
+
+    private long createCategory(String name) throws Exception {
+        String body = mockMvc.perform(post("/api/categories").header(TENANT_HEADER, tenant)
+                        .contentType(APPLICATION_JSON)
+                        .content("{\"name\":\"" + name + "\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return ((Number) JsonPath.read(body, "$.id")).longValue();
+    }
+
+    private void recordChanges(int count) {
+        TenantContext.setTenantId(tenant);
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                for (long id = 1; id <= count; id++) {
+                    changeFeedService.recordChange(ChangeEntityType.PRODUCT, id, ChangeOperation.CREATED);
+                }
+            });
+        } finally {
+            TenantContext.clear();
+        }
+    }
+}
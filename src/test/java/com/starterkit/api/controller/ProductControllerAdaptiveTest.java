@@ -0,0 +1,161 @@
+package com.starterkit.api.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.starterkit.api.entity.Category;
+import com.starterkit.api.entity.Product;
+import com.starterkit.api.repository.CategoryRepository;
+import com.starterkit.api.repository.ProductRepository;
+import com.starterkit.api.tenant.TenantContext;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.starterkit.api.tenant.TenantFilter.TENANT_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ProductControllerAdaptiveTest {
+
+    private static final String TENANT = "adaptive";
+    private static final int PRODUCTS = 25;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private List<Long> productIds;
+    private Long booksId;
+    private List<Long> bookIds;
+
+    @BeforeAll
+    void seedCatalog() {
+        TenantContext.setTenantId(TENANT);
+        try {
+            Category books = categoryRepository.save(Category.builder().name("Books").build());
+            Category games = categoryRepository.save(Category.builder().name("Games").build());
+            // Every third product is a game, so a category's ids are not contiguous
+            List<Product> products = productRepository.saveAll(IntStream.range(0, PRODUCTS)
+                    .mapToObj(i -> Product.builder().name("Product " + i).price(5.0 + i)
+                            .category(i % 3 == 2 ? games : books).build())
+                    .toList());
+            productIds = products.stream().map(Product::getId).toList();
+            booksId = books.getId();
+            bookIds = products.stream()
+                    .filter(product -> product.getCategory() == books)
+                    .map(Product::getId)
+                    .toList();
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    @Test
+    void continuationTokenWalksCatalogWithoutGapsOrDuplicates() throws Exception {
+        assertThat(walk("/api/products/adaptive")).containsExactlyElementsOf(productIds);
+    }
+
+    @Test
+    void continuationTokenWalksCategoryWithoutGapsOrDuplicates() throws Exception {
+        assertThat(walk("/api/products/by-category/" + booksId + "/adaptive")).containsExactlyElementsOf(bookIds);
+    }
+
+    @Test
+    void largerByteBudgetYieldsLargerPages() throws Exception {
+        // First call measures the payload
+        adaptivePage("maxBytes", "300", null);
+
+        int small = JsonPath.read(adaptivePage("maxBytes", "300", null), "$.pageSize");
+        int large = JsonPath.read(adaptivePage("maxBytes", "3000", null), "$.pageSize");
+
+        assertThat(small).isGreaterThanOrEqualTo(1);
+        assertThat(large).isGreaterThan(small);
+    }
+
+    @Test
+    void totalsAreOmittedInAdaptiveMode() throws Exception {
+        String body = adaptivePage("maxLatencyMs", "1000", null);
+
+        assertThat(JsonPath.<List<?>>read(body, "$..totalElements")).isEmpty();
+        assertThat(JsonPath.<List<?>>read(body, "$..totalPages")).isEmpty();
+    }
+
+    @Test
+    void rejectsMissingOrNonPositiveBudget() throws Exception {
+        mockMvc.perform(get("/api/products/adaptive").header(TENANT_HEADER, TENANT))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/products/adaptive").header(TENANT_HEADER, TENANT).param("maxLatencyMs", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/products/adaptive").header(TENANT_HEADER, TENANT).param("maxBytes", "-1"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void rejectsInvalidContinuationToken() throws Exception {
+        String notANumber = Base64.getUrlEncoder().withoutPadding().encodeToString("abc".getBytes(StandardCharsets.UTF_8));
+
+        mockMvc.perform(get("/api/products/adaptive").header(TENANT_HEADER, TENANT)
+                        .param("maxBytes", "300").param("continuationToken", "@@"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/products/adaptive").header(TENANT_HEADER, TENANT)
+                        .param("maxBytes", "300").param("continuationToken", notANumber))
+                .andExpect(status().isBadRequest());
+    }
+
+    private List<Long> walk(String path) throws Exception {
+        List<Long> seen = new ArrayList<>();
+        String token = null;
+        int pages = 0;
+
+        do {
+            String body = adaptivePage(path, "maxBytes", "300", token);
+            List<Number> ids = JsonPath.read(body, "$.content[*].id");
+            int pageSize = JsonPath.read(body, "$.pageSize");
+            boolean last = JsonPath.read(body, "$.last");
+            token = JsonPath.<List<String>>read(body, "$..continuationToken").stream().findFirst().orElse(null);
+
+            assertThat(ids).hasSizeLessThanOrEqualTo(pageSize);
+            assertThat((boolean) JsonPath.read(body, "$.first")).isEqualTo(pages == 0);
+            assertThat(last).isEqualTo(token == null);
+            ids.forEach(id -> seen.add(id.longValue()));
+            pages++;
+        } while (token != null && pages < PRODUCTS + 1);
+
+        assertThat(pages).isGreaterThan(1);
+        return seen;
+    }
+
+    private String adaptivePage(String budget, String value, String token) throws Exception {
+        return adaptivePage("/api/products/adaptive", budget, value, token);
+    }
+
+    private String adaptivePage(String path, String budget, String value, String token) throws Exception {
+        var request = get(path).header(TENANT_HEADER, TENANT).param(budget, value);
+        if (token != null) {
+            request.param("continuationToken", token);
+        }
+        return mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+}
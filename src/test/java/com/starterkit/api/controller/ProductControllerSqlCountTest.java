@@ -0,0 +1,220 @@
+package com.starterkit.api.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.starterkit.api.entity.Category;
+import com.starterkit.api.entity.ChangeEntityType;
+import com.starterkit.api.entity.ChangeOperation;
+import com.starterkit.api.entity.Product;
+import com.starterkit.api.repository.CategoryRepository;
+import com.starterkit.api.repository.ProductRepository;
+import com.starterkit.api.service.ChangeFeedService;
+import com.starterkit.api.tenant.TenantContext;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.starterkit.api.tenant.TenantFilter.TENANT_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pins the number of SQL statements and loaded entities per ProductController endpoint
+ * under the prod profile, so N+1 selects, extra count queries or accidental collection
+ * loading fail the build.
+ */
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "app.warm-up.enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("prod")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ProductControllerSqlCountTest {
+
+    // Seeded into a tenant of its own so rows written by other test classes never land on a page
+    private static final String TENANT = "sql-count";
+    private static final int CATEGORIES = 3;
+    // Four products per category: any 10 of them, in whatever order the database returns
+    // the rows, span all three categories, so every page of 10 loads exactly CATEGORIES
+    private static final int PRODUCTS = 12;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long categoryId;
+
+    @BeforeAll
+    void seedCatalog() {
+        TenantContext.setTenantId(TENANT);
+        try {
+            seedProducts();
+        } finally {
+            TenantContext.clear();
+        }
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private void seedProducts() {
+        List<Category> categories = new ArrayList<>();
+        for (int i = 0; i < CATEGORIES; i++) {
+            categories.add(categoryRepository.save(Category.builder().name("sql-count-category-" + i).build()));
+        }
+        // Recorded as the category endpoint does, which also creates the change counter,
+        // so createProduct counts the steady-state statements
+        for (Category category : categories) {
+            changeFeedService.recordChange(ChangeEntityType.CATEGORY, category.getId(), ChangeOperation.CREATED);
+        }
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < PRODUCTS; i++) {
+            products.add(Product.builder()
+                    .name("sql-count-product-" + i)
+                    .price(10.0 + i)
+                    .category(categories.get(i % CATEGORIES))
+                    .build());
+        }
+        productRepository.saveAll(products);
+        categoryId = categories.get(0).getId();
+    }
+
+    @BeforeEach
+    void resetStatistics() {
+        statistics.clear();
+    }
+
+    @Test
+    void basicPagination() throws Exception {
+        mockMvc.perform(tenantScoped(get("/api/products").param("page", "0").param("size", "10")))
+                .andExpect(status().isOk());
+
+        // page select + one batched category select + count
+        assertStatements(3);
+        assertEntitiesLoaded(10 + CATEGORIES);
+    }
+
+    @Test
+    void singleFieldSorting() throws Exception {
+        mockMvc.perform(tenantScoped(get("/api/products/sorted").param("size", "10").param("sortField", "price").param("direction", "desc")))
+                .andExpect(status().isOk());
+
+        assertStatements(3);
+        assertEntitiesLoaded(10 + CATEGORIES);
+    }
+
+    @Test
+    void multiSort() throws Exception {
+        mockMvc.perform(tenantScoped(get("/api/products/multi-sort").param("size", "10").param("sort", "name,asc").param("sort", "price,desc")))
+                .andExpect(status().isOk());
+
+        assertStatements(3);
+        assertEntitiesLoaded(10 + CATEGORIES);
+    }
+
+    @Test
+    void querySort() throws Exception {
+        mockMvc.perform(tenantScoped(get("/api/products/query-sort").param("size", "10").param("sort", "price,asc")))
+                .andExpect(status().isOk());
+
+        assertStatements(3);
+        assertEntitiesLoaded(10 + CATEGORIES);
+    }
+
+    @Test
+    void byCategory() throws Exception {
+        mockMvc.perform(tenantScoped(get("/api/products/by-category/{categoryId}", categoryId).param("size", "3")))
+                .andExpect(status().isOk());
+
+        assertStatements(3);
+        assertEntitiesLoaded(3 + 1);
+    }
+
+    @Test
+    void topPriced() throws Exception {
+        mockMvc.perform(tenantScoped(get("/api/products/top-priced").param("limit", "5")))
+                .andExpect(status().isOk());
+
+        // no count query for a top N list
+        assertStatements(2);
+        assertEntitiesLoaded(5 + CATEGORIES);
+    }
+
+    @Test
+    void adaptivePageSize() throws Exception {
+        String body = mockMvc.perform(tenantScoped(get("/api/products/adaptive").param("maxLatencyMs", "1000")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        int pageSize = JsonPath.read(body, "$.pageSize");
+
+        // keyset select + one batched category select; no count query in adaptive mode
+        assertStatements(2);
+        // 10 rows on a cold tracker, more once other adaptive requests have been measured, plus the
+        // look-ahead row that tells whether there is a next page; 10 rows already span every category
+        assertThat(pageSize).isGreaterThanOrEqualTo(10);
+        assertEntitiesLoaded(Math.min(pageSize + 1, PRODUCTS) + CATEGORIES);
+    }
+
+    @Test
+    void adaptiveByCategory() throws Exception {
+        mockMvc.perform(tenantScoped(get("/api/products/by-category/{categoryId}/adaptive", categoryId)
+                        .param("maxLatencyMs", "1000")))
+                .andExpect(status().isOk());
+
+        // keyset select within the category + its category; the whole category fits on one page
+        assertStatements(2);
+        assertEntitiesLoaded(PRODUCTS / CATEGORIES + 1);
+    }
+
+    @Test
+    void createProduct() throws Exception {
+        mockMvc.perform(tenantScoped(post("/api/products"))
+                        .contentType(APPLICATION_JSON)
+                        .content("{\"name\":\"sql-count-new\",\"price\":1.0,\"categoryId\":" + categoryId + "}"))
+                .andExpect(status().isCreated());
+
+        // category select + product insert + locked sequence select + change log insert + sequence update;
+        // the products collection stays untouched
+        assertStatements(5);
+        assertEntitiesLoaded(2);
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+    }
+
+    private MockHttpServletRequestBuilder tenantScoped(MockHttpServletRequestBuilder request) {
+        return request.header(TENANT_HEADER, TENANT);
+    }
+
+    private void assertStatements(long expected) {
+        assertThat(statistics.getPrepareStatementCount()).as("SQL statements").isEqualTo(expected);
+    }
+
+    private void assertEntitiesLoaded(long expected) {
+        assertThat(statistics.getEntityLoadCount()).as("entities loaded").isEqualTo(expected);
+    }
+}
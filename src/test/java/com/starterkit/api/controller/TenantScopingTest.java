@@ -0,0 +1,77 @@
+package com.starterkit.api.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.starterkit.api.tenant.TenantFilter.TENANT_HEADER;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TenantScopingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void catalogsAreIsolatedPerTenant() throws Exception {
+        long categoryId = createCategory("shop-a", "Books");
+        mockMvc.perform(post("/api/products").header(TENANT_HEADER, "shop-a")
+                        .contentType(APPLICATION_JSON)
+                        .content("{\"name\":\"Novel\",\"price\":9.5,\"categoryId\":" + categoryId + "}"))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/products").header(TENANT_HEADER, "shop-a"))
+                .andExpect(jsonPath("$.totalElements").value(1));
+        mockMvc.perform(get("/api/products").header(TENANT_HEADER, "shop-b"))
+                .andExpect(jsonPath("$.totalElements").value(0));
+        mockMvc.perform(get("/api/products/by-category/{categoryId}", categoryId).header(TENANT_HEADER, "shop-b"))
+                .andExpect(jsonPath("$.totalElements").value(0));
+    }
+
+    @Test
+    void categoryOfAnotherTenantIsNotFound() throws Exception {
+        long categoryId = createCategory("shop-c", "Games");
+
+        mockMvc.perform(post("/api/products").header(TENANT_HEADER, "shop-d")
+                        .contentType(APPLICATION_JSON)
+                        .content("{\"name\":\"Chess\",\"price\":20.0,\"categoryId\":" + categoryId + "}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void categoryNameIsUniquePerTenant() throws Exception {
+        createCategory("shop-e", "Music");
+        createCategory("shop-f", "Music");
+
+        mockMvc.perform(post("/api/categories").header(TENANT_HEADER, "shop-e")
+                        .contentType(APPLICATION_JSON)
+                        .content("{\"name\":\"Music\"}"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void invalidTenantHeaderIsRejected() throws Exception {
+        mockMvc.perform(get("/api/products").header(TENANT_HEADER, "not a tenant"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private long createCategory(String tenantId, String name) throws Exception {
+        String body = mockMvc.perform(post("/api/categories").header(TENANT_HEADER, tenantId)
+                        .contentType(APPLICATION_JSON)
+                        .content("{\"name\":\"" + name + "\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return ((Number) JsonPath.read(body, "$.id")).longValue();
+    }
+}
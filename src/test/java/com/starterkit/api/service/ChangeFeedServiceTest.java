@@ -0,0 +1,123 @@
+package com.starterkit.api.service;
+
+import com.starterkit.api.dto.response.ChangeFeedResponse;
+import com.starterkit.api.dto.response.ChangeResponse;
+import com.starterkit.api.entity.ChangeEntityType;
+import com.starterkit.api.entity.ChangeOperation;
+import com.starterkit.api.repository.ChangeSequenceRepository;
+import com.starterkit.api.tenant.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ChangeFeedServiceTest {
+
+    private static final String TENANT = "change-order";
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    @Autowired
+    private ChangeSequenceRepository changeSequenceRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void clearTenant() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void changeCommittedAfterALaterWriterStartedIsNotSkipped() throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        CountDownLatch firstRecorded = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        ExecutorService writers = Executors.newFixedThreadPool(2);
+        TenantContext.setTenantId(TENANT);
+        List<ChangeResponse> delivered = new ArrayList<>();
+        long cursor = 0;
+
+        try {
+            // First writer records its change and keeps its transaction open
+            Future<?> first = writers.submit(() -> inTenant(() -> transaction.executeWithoutResult(status -> {
+                changeFeedService.recordChange(ChangeEntityType.PRODUCT, 1L, ChangeOperation.CREATED);
+                firstRecorded.countDown();
+                await(releaseFirst);
+            })));
+            assertThat(firstRecorded.await(10, SECONDS)).isTrue();
+
+            // Second writer starts later and must not commit a higher sequence ahead of the first
+            Future<?> second = writers.submit(() -> inTenant(() -> transaction.executeWithoutResult(status ->
+                    changeFeedService.recordChange(ChangeEntityType.PRODUCT, 2L, ChangeOperation.CREATED))));
+            Thread.sleep(300);
+            assertThat(second.isDone()).isFalse();
+
+            // An incremental consumer polling meanwhile sees nothing and keeps its cursor
+            ChangeFeedResponse response = changeFeedService.getChanges(cursor, 10);
+            assertThat(response.getChanges()).isEmpty();
+            cursor = response.getNextSince();
+
+            releaseFirst.countDown();
+            first.get(10, SECONDS);
+            response = changeFeedService.getChanges(cursor, 10);
+            delivered.addAll(response.getChanges());
+            cursor = response.getNextSince();
+
+            second.get(10, SECONDS);
+            delivered.addAll(changeFeedService.getChanges(cursor, 10).getChanges());
+        } finally {
+            releaseFirst.countDown();
+            writers.shutdownNow();
+        }
+
+        assertThat(delivered).extracting(ChangeResponse::getEntityId).containsExactly(1L, 2L);
+        assertThat(delivered.get(0).getSeq()).isLessThan(delivered.get(1).getSeq());
+    }
+
+    @Test
+    void missingSequenceRowIsRecreatedAfterTheLatestChange() {
+        TenantContext.setTenantId("change-counter");
+        changeFeedService.recordChange(ChangeEntityType.PRODUCT, 1L, ChangeOperation.CREATED);
+        changeSequenceRepository.deleteAll();
+
+        changeFeedService.recordChange(ChangeEntityType.PRODUCT, 2L, ChangeOperation.CREATED);
+
+        List<ChangeResponse> changes = changeFeedService.getChanges(0, 10).getChanges();
+        assertThat(changes).extracting(ChangeResponse::getEntityId).containsExactly(1L, 2L);
+        assertThat(changes.get(1).getSeq()).isEqualTo(changes.get(0).getSeq() + 1);
+    }
+
+    private static void inTenant(Runnable action) {
+        TenantContext.setTenantId(TENANT);
+        try {
+            action.run();
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.starterkit.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.starterkit.api.dto.response.ProductResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PageCostTrackerTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final PageCostTracker tracker = new PageCostTracker(objectMapper);
+
+    @Test
+    void coldTrackerStartsSmallAndMeetsByteBudgetFromFirstPage() {
+        assertThat(tracker.choosePageSize(50, null)).isEqualTo(10);
+        assertThat(tracker.choosePageSize(null, 100)).isEqualTo(1);
+        assertThat(tracker.choosePageSize(50, 100_000)).isEqualTo(1);
+    }
+
+    @Test
+    void byteBudgetUsesMeasuredBytesPerRow() throws Exception {
+        List<ProductResponse> page = products(10);
+        double bytesPerRow = objectMapper.writeValueAsBytes(page).length / 10.0;
+
+        tracker.recordPayload(page);
+
+        assertThat(tracker.choosePageSize(null, (int) Math.ceil(5 * bytesPerRow))).isEqualTo(5);
+        assertThat(tracker.choosePageSize(null, (int) Math.ceil(40 * bytesPerRow))).isEqualTo(40);
+    }
+
+    @Test
+    void latencyBudgetSubtractsFixedOverheadBeforeChargingRows() {
+        // 1 ms per query plus 0.1 ms per row
+        for (int i = 0; i < 5; i++) {
+            tracker.recordPage(10, 2 * MILLIS);
+            tracker.recordPage(20, 3 * MILLIS);
+        }
+
+        assertThat(tracker.choosePageSize(3, null)).isBetween(19, 20);
+        assertThat(tracker.choosePageSize(11, null)).isBetween(99, 100);
+    }
+
+    @Test
+    void pagesShrinkWhenRowsGetMoreExpensive() {
+        for (int i = 0; i < 5; i++) {
+            tracker.recordPage(10, 2 * MILLIS);
+            tracker.recordPage(20, 3 * MILLIS);
+        }
+        int idleSize = tracker.choosePageSize(5, null);
+
+        // Under load the per-row cost doubles
+        for (int i = 0; i < 20; i++) {
+            tracker.recordPage(10, 3 * MILLIS);
+            tracker.recordPage(20, 5 * MILLIS);
+        }
+
+        assertThat(tracker.choosePageSize(5, null)).isLessThan(idleSize);
+    }
+
+    @Test
+    void pageSizeStaysWithinBounds() {
+        for (int i = 0; i < 5; i++) {
+            tracker.recordPage(10, 2 * MILLIS);
+            tracker.recordPage(20, 3 * MILLIS);
+        }
+
+        assertThat(tracker.choosePageSize(10_000, null)).isEqualTo(500);
+        // Budget below the fixed per-query overhead still returns one row
+        assertThat(tracker.choosePageSize(1, 1)).isEqualTo(1);
+    }
+
+    @Test
+    void emptyPagesAreNotRecorded() {
+        tracker.recordPage(0, 50 * MILLIS);
+        tracker.recordPayload(List.of());
+
+        assertThat(tracker.choosePageSize(50, null)).isEqualTo(10);
+        assertThat(tracker.choosePageSize(null, 100_000)).isEqualTo(1);
+    }
+
+    @Test
+    void payloadIsSampledOnEveryEighthPage() throws Exception {
+        List<ProductResponse> page = products(10);
+        double bytesPerRow = objectMapper.writeValueAsBytes(page).length / 10.0;
+        int fiveRows = (int) Math.ceil(5 * bytesPerRow);
+        List<ProductResponse> widerRows = page.stream()
+                .map(product -> ProductResponse.builder()
+                        .id(product.getId())
+                        .category(product.getCategory())
+                        .name(product.getName().repeat(10))
+                        .price(product.getPrice())
+                        .build())
+                .toList();
+
+        tracker.recordPayload(page);
+        for (int i = 0; i < 7; i++) {
+            tracker.recordPayload(widerRows);
+        }
+        assertThat(tracker.choosePageSize(null, fiveRows)).isEqualTo(5);
+
+        tracker.recordPayload(widerRows);
+        assertThat(tracker.choosePageSize(null, fiveRows)).isLessThan(5);
+    }
+
+    private static List<ProductResponse> products(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> ProductResponse.builder()
+                        .id(id)
+                        .category("Books")
+                        .name("Product " + id)
+                        .price(9.99)
+                        .build())
+                .toList();
+    }
+}